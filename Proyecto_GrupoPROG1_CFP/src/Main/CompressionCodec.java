@@ -0,0 +1,226 @@
+package Main;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.*;
+
+/**
+ * Compression formats supported for the data and report files.
+ * The format of a file is chosen from its extension, so readers and writers can open
+ * plain and compressed files in the same way and stream them without temporary files.
+ */
+public enum CompressionCodec {
+    /** Plain, uncompressed files. */
+    NONE("") {
+        @Override
+        InputStream wrap(InputStream in) {
+            return in;
+        }
+
+        @Override
+        OutputStream wrap(OutputStream out) {
+            return out;
+        }
+    },
+    /** Gzip files, with the ".gz" extension. */
+    GZIP(".gz") {
+        @Override
+        InputStream wrap(InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+
+        @Override
+        OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out);
+        }
+    },
+    /** Zlib (deflate) files, with the ".zz" extension. */
+    DEFLATE(".zz") {
+        @Override
+        InputStream wrap(InputStream in) {
+            Inflater inflater = new Inflater();
+            return new InflaterInputStream(in, inflater) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end(); // Release the native zlib memory, not done for a supplied Inflater
+                    }
+                }
+            };
+        }
+
+        @Override
+        OutputStream wrap(OutputStream out) {
+            Deflater deflater = new Deflater();
+            return new DeflaterOutputStream(out, deflater) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deflater.end(); // Release the native zlib memory, not done for a supplied Deflater
+                    }
+                }
+            };
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+
+    CompressionCodec(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Wraps a stream to decompress the data read from it.
+     *
+     * @param in the compressed stream
+     * @return the decompressed stream
+     * @throws IOException if the compression header cannot be read
+     */
+    abstract InputStream wrap(InputStream in) throws IOException;
+
+    /**
+     * Wraps a stream to compress the data written to it.
+     *
+     * @param out the stream that receives the compressed data
+     * @return the stream that compresses the data
+     * @throws IOException if the compression header cannot be written
+     */
+    abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    /**
+     * Gets the file extension of the codec.
+     *
+     * @return the extension, including the leading dot, or an empty string for NONE
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Finds the codec of a file from its extension.
+     *
+     * @param filename the path of the file
+     * @return the codec of the file, NONE if the extension is not a compression format
+     */
+    public static CompressionCodec forFile(String filename) {
+        for (CompressionCodec codec : values()) {
+            if (codec != NONE && filename.endsWith(codec.extension)) {
+                return codec;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Finds a codec by name or extension, for example "gzip" or "gz".
+     *
+     * @param name the name or extension of the codec
+     * @return the codec
+     * @throws IllegalArgumentException if there is no codec with that name
+     */
+    public static CompressionCodec forName(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (CompressionCodec codec : values()) {
+            if (codec.name().toLowerCase(Locale.ROOT).equals(normalized)
+                    || (codec != NONE && codec.extension.equals("." + normalized))) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown compression codec: " + name);
+    }
+
+    /**
+     * Removes the compression extension of a file name, if it has one.
+     *
+     * @param filename the path of the file, for example "sales_1.txt.gz"
+     * @return the path without the compression extension, for example "sales_1.txt"
+     */
+    public static String stripExtension(String filename) {
+        CompressionCodec codec = forFile(filename);
+        return filename.substring(0, filename.length() - codec.extension.length());
+    }
+
+    /**
+     * Finds the file that exists on disk for a plain file name, either the plain file
+     * or one of its compressed versions, tried in the order NONE, GZIP, DEFLATE.
+     *
+     * @param filename the path of the plain file, for example "sales_data.ser"
+     * @return the path of the first file that exists, or filename if none of them exists
+     */
+    public static String findFile(String filename) {
+        for (CompressionCodec codec : values()) {
+            String candidate = filename + codec.extension;
+            if (new File(candidate).isFile()) {
+                return candidate;
+            }
+        }
+        return filename;
+    }
+
+    /**
+     * Opens a file for reading, decompressing it according to its extension.
+     * Only the file side of the stream is buffered; readers add their own buffering.
+     *
+     * @param filename the path of the file
+     * @return a stream with the decompressed content of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static InputStream openInputStream(String filename) throws IOException {
+        InputStream in = new FileInputStream(filename);
+        try {
+            return forFile(filename).wrap(new BufferedInputStream(in, BUFFER_SIZE));
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a file for writing, compressing it according to its extension.
+     * The file is overwritten if it exists. Only the file side of the stream is buffered;
+     * writers add their own buffering.
+     *
+     * @param filename the path of the file
+     * @return a stream that writes the compressed content of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static OutputStream openOutputStream(String filename) throws IOException {
+        OutputStream out = new FileOutputStream(filename, false);
+        try {
+            return forFile(filename).wrap(new BufferedOutputStream(out, BUFFER_SIZE));
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a text file for reading, decompressing it according to its extension.
+     *
+     * @param filename the path of the file
+     * @return a reader with the decompressed content of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static BufferedReader openReader(String filename) throws IOException {
+        return new BufferedReader(new InputStreamReader(openInputStream(filename), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens a text file for writing, compressing it according to its extension.
+     * The file is overwritten if it exists. The writer encodes the text in its own buffer.
+     *
+     * @param filename the path of the file
+     * @return a writer that writes the compressed content of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static Writer openWriter(String filename) throws IOException {
+        return new OutputStreamWriter(openOutputStream(filename), StandardCharsets.UTF_8);
+    }
+}
@@ -18,13 +18,15 @@ public class GenerateInfoFiles {
 	/**
 	 * Main method to create salesmen, products, delete old sales files, and generate new sales files.
 	 * 
-	 * @param args Command-line arguments (not used).
+	 * @param args Command-line arguments; the optional first argument is the compression codec
+	 *             of the serialized sales data, for example "gzip" (plain file by default).
 	 */
     public static void main(String[] args) {
+        CompressionCodec codec = args.length > 0 ? CompressionCodec.forName(args[0]) : CompressionCodec.NONE;
         List<Long> salesmanIds = createSalesManInfoFile(10);
         createProductsFile(20);
         deleteOldSalesFiles("resources"); // Call the method to delete old sales file
-        createSalesFiles(salesmanIds, 10); // Create new sales files
+        createSalesFiles(salesmanIds, 10, codec); // Create new sales files
     }
 
     /**
@@ -124,7 +126,18 @@ public class GenerateInfoFiles {
      * @param sales A list of sales to serialize.
      */
     public static void serializeSales(List<Sale> sales) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream("resources/sales_data.ser", false))) {
+        serializeSales(sales, "resources/sales_data.ser");
+    }
+
+    /**
+     * Serializes the sales data into the specified file.
+     * The file is compressed according to its extension, for example "sales_data.ser.gz".
+     * 
+     * @param sales A list of sales to serialize.
+     * @param filename The path of the serialized sales data file.
+     */
+    public static void serializeSales(List<Sale> sales, String filename) {
+        try (ObjectOutputStream oos = new ObjectOutputStream(CompressionCodec.openOutputStream(filename))) {
             oos.writeObject(sales);  // Overwrite the sales_data.ser file with the new list of sales
             System.out.println("Sales data serialized and overwritten successfully.");
         } catch (IOException e) {
@@ -140,6 +153,18 @@ public class GenerateInfoFiles {
      * @param randomSalesCount The number of sales to generate randomly.
      */
     public static void createSalesFiles(List<Long> salesmanIds, int randomSalesCount) {
+        createSalesFiles(salesmanIds, randomSalesCount, CompressionCodec.NONE);
+    }
+
+    /**
+     * Creates sales files for salesmen and adds sales records to each file,
+     * serializing the sales data with the specified compression codec.
+     * 
+     * @param salesmanIds A list of salesmen IDs to associate with sales.
+     * @param randomSalesCount The number of sales to generate randomly.
+     * @param codec The compression codec of the serialized sales data file.
+     */
+    public static void createSalesFiles(List<Long> salesmanIds, int randomSalesCount, CompressionCodec codec) {
         List<Sale> allSales = new ArrayList<>();
         int maxFiles = 10; // Overwrite if exists
 
@@ -175,7 +200,7 @@ public class GenerateInfoFiles {
             }
 
             // Serialize the sales data after creating all files
-            serializeSales(allSales);
+            serializeSales(allSales, "resources/sales_data.ser" + codec.getExtension());
         } catch (IOException e) {
             e.printStackTrace();
         }
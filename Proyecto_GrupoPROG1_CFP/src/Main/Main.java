@@ -2,8 +2,10 @@ package Main;
 import java.io.*;
 import java.util.*;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.NumberFormat;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -15,15 +17,18 @@ public class Main {
 	/**
      * Main method to run the application.
      * 
-     * @param args command line arguments (not used)
+     * @param args command line arguments; the optional first argument is the compression
+     *             codec of the report files, for example "gzip" (plain files by default).
+     *             The serialized sales data is read in whichever format exists on disk.
      */
 	public static void main(String[] args) {
 	    try {
+	        CompressionCodec codec = args.length > 0 ? CompressionCodec.forName(args[0]) : CompressionCodec.NONE;
 	        List<Salesman> salesmen = readSalesmenFile("resources/salesmen.txt");
 	        List<Product> products = readProductsFile("resources/products.txt");
-	        List<Sale> sales = readSerializedSales("resources/sales_data.ser"); // Read serialized sales data
+	        List<Sale> sales = readSerializedSales(CompressionCodec.findFile("resources/sales_data.ser")); // Read serialized sales data
 
-	        if (generateReports(salesmen, products, sales)) {
+	        if (generateReports(salesmen, products, sales, codec)) {
 	            System.out.println("Report files successfully generated!");
 	        } else {
 	            System.err.println("Error generating report files.");
@@ -36,6 +41,7 @@ public class Main {
 
     /**
      * Reads serialized sales data from a specified file.
+     * Compressed files are decompressed according to their extension.
      *
      * @param filename the path of the serialized sales data file
      * @return a list of Sale objects deserialized from the file
@@ -43,7 +49,7 @@ public class Main {
     @SuppressWarnings("unchecked")
     public static List<Sale> readSerializedSales(String filename) {
         List<Sale> sales = new ArrayList<>();
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filename))) {
+        try (ObjectInputStream ois = new ObjectInputStream(CompressionCodec.openInputStream(filename))) {
             sales = (List<Sale>) ois.readObject();
             System.out.println("Sales data deserialized successfully.");
         } catch (IOException | ClassNotFoundException e) {
@@ -53,13 +59,14 @@ public class Main {
     }
     /**
      * Reads the salesmen data from a specified file.
+     * Compressed files are decompressed according to their extension.
      *
      * @param filename the path of the salesmen data file
      * @return a list of Salesman objects read from the file
      */
     public static List<Salesman> readSalesmenFile(String filename) {
         List<Salesman> salesmen = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+        try (BufferedReader br = CompressionCodec.openReader(filename)) {
             String line;
             boolean firstLine = true;
 
@@ -92,13 +99,14 @@ public class Main {
     
     /**
      * Reads the product data from a specified file.
+     * Compressed files are decompressed according to their extension.
      *
      * @param filename the path of the product data file
      * @return a list of Product objects read from the file
      */
     public static List<Product> readProductsFile(String filename) {
         List<Product> products = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+        try (BufferedReader br = CompressionCodec.openReader(filename)) {
             String line;
             boolean firstLine = true;
 
@@ -131,19 +139,28 @@ public class Main {
     
     /**
      * Reads all sales files from a specified directory.
+     * Plain ("sales_*.txt") and compressed ("sales_*.txt.gz", "sales_*.txt.zz") files are
+     * matched, and the files are read and decompressed in parallel. When a file exists both
+     * plain and compressed, only the plain copy is read, so its sales are not counted twice.
      *
      * @param directoryPath the path of the directory containing sales files
      * @return a list of Sale objects read from all sales files in the directory
      */
     public static List<Sale> readAllSalesFiles(String directoryPath) {
         List<Sale> sales = new ArrayList<>();
-        try {
-            Files.list(Paths.get(directoryPath))
-                 .filter(path -> path.getFileName().toString().startsWith("sales_") && path.getFileName().toString().endsWith(".txt"))
-                 .forEach(path -> {
-                     List<Sale> salesFromFile = readSalesFile(path.toString());
-                     sales.addAll(salesFromFile);
-                 });
+        try (Stream<Path> files = Files.list(Paths.get(directoryPath))) {
+            Map<String, String> filenames = new LinkedHashMap<>();
+            files.map(Path::toString)
+                 .filter(filename -> {
+                     String name = CompressionCodec.stripExtension(Paths.get(filename).getFileName().toString());
+                     return name.startsWith("sales_") && name.endsWith(".txt");
+                 })
+                 .forEach(filename -> filenames.merge(CompressionCodec.stripExtension(filename), filename,
+                         (current, other) -> CompressionCodec.forFile(other) == CompressionCodec.NONE ? other : current));
+            sales = filenames.values().parallelStream()
+                 .map(Main::readSalesFile)
+                 .flatMap(List::stream)
+                 .collect(Collectors.toCollection(ArrayList::new));
         } catch (IOException e) {
             System.err.println("Error reading sales files: " + e.getMessage());
         }
@@ -152,44 +169,63 @@ public class Main {
 
     /**
      * Reads a sales file and extracts sales data.
+     * Compressed files are decompressed according to their extension.
      *
      * @param filename the path of the sales data file
-     * @return a list of Sale objects read from the file
+     * @return a list of Sale objects read from the file, or an empty list if the file cannot be read
      */
     public static List<Sale> readSalesFile(String filename) {
+        try {
+            return parseSalesFile(filename);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Reads a sales file and extracts sales data, reporting read errors to the caller.
+     * Invalid lines are skipped, as in readSalesFile.
+     *
+     * @param filename the path of the sales data file
+     * @return a list of Sale objects read from the file
+     * @throws IOException if the file cannot be read or decompressed
+     */
+    public static List<Sale> parseSalesFile(String filename) throws IOException {
         List<Sale> sales = new ArrayList<>();
-        try (Stream<String> lines = Files.lines(Paths.get(filename))) {
-            lines.skip(1) // Skip header
-                 .forEach(line -> {
-                     String[] parts = line.split(";");
-                     if (parts.length < 3) {
-                         System.err.println("Invalid line format: " + line);
-                         return; // Skip invalid lines
-                     }
+        try (BufferedReader br = CompressionCodec.openReader(filename)) {
+            String line = br.readLine(); // Skip header
 
-                     try {
-                         int productId = Integer.parseInt(parts[0].trim());
-                         long salesmanId = Long.parseLong(parts[1].trim());
-                         int quantity = Integer.parseInt(parts[2].trim());
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split(";");
+                if (parts.length < 3) {
+                    System.err.println("Invalid line format: " + line);
+                    continue; // Skip invalid lines
+                }
 
-                         if (salesmanId == 0) {
-                             System.err.println("Invalid SalesmanId in line: " + line);
-                             return;
-                         }
+                try {
+                    int productId = Integer.parseInt(parts[0].trim());
+                    long salesmanId = Long.parseLong(parts[1].trim());
+                    int quantity = Integer.parseInt(parts[2].trim());
 
-                         sales.add(new Sale(productId, salesmanId, quantity));
-                     } catch (NumberFormatException e) {
-                         System.err.println("Invalid number format in line: " + line);
-                     }
-                 });
-        } catch (IOException e) {
-            e.printStackTrace();
+                    if (salesmanId == 0) {
+                        System.err.println("Invalid SalesmanId in line: " + line);
+                        continue;
+                    }
+
+                    sales.add(new Sale(productId, salesmanId, quantity));
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid number format in line: " + line);
+                }
+            }
         }
         return sales;
     }
     
     /**
      * Generates reports based on the provided salesmen, products, and sales data.
+     * The sales are aggregated once and every report is rendered concurrently from
+     * the same snapshot; a failing report does not prevent the others from being written.
      *
      * @param salesmen a list of Salesman objects
      * @param products a list of Product objects
@@ -197,62 +233,63 @@ public class Main {
      * @return true if reports are generated successfully, false otherwise
      */
     public static boolean generateReports(List<Salesman> salesmen, List<Product> products, List<Sale> sales) {
-        try {
-            // Generate current reports
-            generateSalesReport(salesmen, products, sales);
-            generateProductSalesReport(products, sales);
-            
-            generateSalesReportDeserialized(salesmen, products, sales);
-            generateProductSalesReportDeserialized(products, sales);
-            
-            return true;
-        } catch (IOException e) {
-            System.err.println("Error generating report files: " + e.getMessage());
-            return false;
-        }
+        return generateReports(salesmen, products, sales, CompressionCodec.NONE);
     }
+
     /**
-     * Generates a sales report in CSV format.
+     * Generates reports based on the provided salesmen, products, and sales data,
+     * compressing the report files with the specified codec.
      *
      * @param salesmen a list of Salesman objects
      * @param products a list of Product objects
      * @param sales a list of Sale objects
-     * @throws IOException if an error occurs during file writing
+     * @param codec the compression codec of the report files
+     * @return true if reports are generated successfully, false otherwise
      */
-    @SuppressWarnings("deprecation")
-	public static void generateSalesReport(List<Salesman> salesmen, List<Product> products, List<Sale> sales) throws IOException {
-        Map<Long, Double> salesBySalesman = new HashMap<>();
-
-        for (Sale sale : sales) {
-            Product product = findProductById(products, sale.getProductId());
-            if (product == null) {
-                System.err.println("Product with ID " + sale.getProductId() + " not found. Skipping sale.");
-                continue;
-            }
-            double totalSaleAmount = product.getPrice() * sale.getQuantity();
-            salesBySalesman.put(sale.getSalesmanId(),
-                    salesBySalesman.getOrDefault(sale.getSalesmanId(), 0.0) + totalSaleAmount);
-        }
-
-        List<Map.Entry<Long, Double>> sortedSalesmen = new ArrayList<>(salesBySalesman.entrySet());
-        sortedSalesmen.sort((entry1, entry2) -> Double.compare(entry2.getValue(), entry1.getValue()));
+    public static boolean generateReports(List<Salesman> salesmen, List<Product> products, List<Sale> sales,
+            CompressionCodec codec) {
+        SalesAggregate aggregate = SalesAggregate.of(salesmen, products, sales);
+        return createReportPipeline(codec).run(aggregate);
+    }
 
-        try (FileWriter writer = new FileWriter("resources/sales_report.csv")) {
-            writer.write("SalesmanId;Name;LastName;TotalSales\n");
-            NumberFormat numberFormat = NumberFormat.getInstance(new Locale("es", "ES"));
+    /**
+     * Creates the pipeline with the reports generated by the application,
+     * compressing the report files with the specified codec.
+     * New reports are added here and are rendered from the same aggregate snapshot.
+     *
+     * @param codec the compression codec of the report files
+     * @return the report pipeline
+     */
+    public static ReportPipeline createReportPipeline(CompressionCodec codec) {
+        String dir = "resources/";
+        String ext = codec.getExtension();
+
+        return new ReportPipeline()
+                .register("sales_report.csv",
+                        aggregate -> writeSalesReport(aggregate, dir + "sales_report.csv" + ext))
+                .register("product_sales_report.csv",
+                        aggregate -> writeProductSalesReport(aggregate.getProducts(), aggregate.getSalesByProduct(),
+                                dir + "product_sales_report.csv" + ext))
+                .register("sales_report_deserialized.csv",
+                        aggregate -> writeSalesReport(aggregate, dir + "sales_report_deserialized.csv" + ext))
+                .register("product_sales_report_deserialized.csv",
+                        aggregate -> writeProductSalesReport(aggregate.getProducts(), aggregate.getSalesByProduct(),
+                                dir + "product_sales_report_deserialized.csv" + ext))
+                .register("salesman_product_report.csv",
+                        aggregate -> writeSalesmanProductReport(aggregate, dir + "salesman_product_report.csv" + ext));
+    }
 
-            for (Map.Entry<Long, Double> entry : sortedSalesmen) {
-                Salesman salesman = findSalesmanById(salesmen, entry.getKey());
-                if (salesman != null) {
-                    String totalSalesFormatted = numberFormat.format(entry.getValue());
-                    writer.write(salesman.getId() + ";" + salesman.getName() + ";" + salesman.getLastName() + ";"
-                            + totalSalesFormatted + "\n");
-                } else {
-                    System.err.println("Salesman with ID " + entry.getKey() + " not found. Skipping report entry.");
-                }
-            }
-            System.out.println("Sales report generated successfully.");
-        }
+    /**
+     * Generates a sales report in CSV format.
+     *
+     * @param salesmen a list of Salesman objects
+     * @param products a list of Product objects
+     * @param sales a list of Sale objects
+     * @throws IOException if an error occurs during file writing
+     */
+    public static void generateSalesReport(List<Salesman> salesmen, List<Product> products, List<Sale> sales) throws IOException {
+        writeSalesReport(SalesAggregate.of(salesmen, products, sales), "resources/sales_report.csv");
+        System.out.println("Sales report generated successfully.");
     }
 
     /**
@@ -263,22 +300,10 @@ public class Main {
      * @throws IOException if an error occurs during file writing
      */
     public static void generateProductSalesReport(List<Product> products, List<Sale> sales) throws IOException {
-        Map<Integer, Integer> salesByProduct = new HashMap<>();
-
-        for (Sale sale : sales) {
-            salesByProduct.put(sale.getProductId(),
-                    salesByProduct.getOrDefault(sale.getProductId(), 0) + sale.getQuantity());
-        }
-
-        try (FileWriter writer = new FileWriter("resources/product_sales_report.csv")) {
-            writer.write("ProductId;Name;TotalSold\n");
-            for (Product product : products) {
-                int totalSold = salesByProduct.getOrDefault(product.getId(), 0);
-                writer.write(product.getId() + ";Product " + product.getId() + ";" + totalSold + "\n");
-            }
-            System.out.println("Product sales report generated successfully.");
-        }
+        writeProductSalesReport(products, countSalesByProduct(sales), "resources/product_sales_report.csv");
+        System.out.println("Product sales report generated successfully.");
     }
+
     /**
      * Generates a deserialized sales report in CSV format.
      * @param salesmen a list of Salesman objects
@@ -287,29 +312,43 @@ public class Main {
      * @throws IOException if an error occurs during file writing
      */
     public static void generateSalesReportDeserialized(List<Salesman> salesmen, List<Product> products, List<Sale> sales) throws IOException {
-        Map<Long, Double> salesBySalesman = new HashMap<>();
-        
-        for (Sale sale : sales) {
-            Product product = findProductById(products, sale.getProductId());
-            if (product == null) {
-                System.err.println("Product with ID " + sale.getProductId() + " not found. Skipping sale.");
-                continue;
-            }
-            double totalSaleAmount = product.getPrice() * sale.getQuantity();
-            salesBySalesman.put(sale.getSalesmanId(),
-                    salesBySalesman.getOrDefault(sale.getSalesmanId(), 0.0) + totalSaleAmount);
+        try {
+            writeSalesReport(SalesAggregate.of(salesmen, products, sales), "resources/sales_report_deserialized.csv");
+            System.out.println("Sales report deserialized generated successfully.");
+        } catch (IOException e) {
+            System.err.println("Error writing sales report: " + e.getMessage());
         }
+    }
 
-        List<Map.Entry<Long, Double>> sortedSalesmen = new ArrayList<>(salesBySalesman.entrySet());
-        sortedSalesmen.sort((entry1, entry2) -> Double.compare(entry2.getValue(), entry1.getValue()));
+    /**
+     * Generates a deserialized product sales report in CSV format.
+     *
+     * @param products a list of Product objects
+     * @param sales a list of Sale objects
+     * @throws IOException if an error occurs during file writing
+     */
+    public static void generateProductSalesReportDeserialized(List<Product> products, List<Sale> sales) throws IOException {
+        writeProductSalesReport(products, countSalesByProduct(sales), "resources/product_sales_report_deserialized.csv");
+        System.out.println("Product sales report (deserialized) generated successfully.");
+    }
 
-        try (FileWriter writer = new FileWriter("resources/sales_report_deserialized.csv")) {
+    /**
+     * Writes the sales report of an aggregate snapshot in CSV format,
+     * sorted by total sales amount from highest to lowest.
+     * The file is compressed according to its extension.
+     *
+     * @param aggregate the aggregated sales data
+     * @param filename the path of the report file
+     * @throws IOException if an error occurs during file writing
+     */
+    public static void writeSalesReport(SalesAggregate aggregate, String filename) throws IOException {
+        try (Writer writer = CompressionCodec.openWriter(filename)) {
             writer.write("SalesmanId;Name;LastName;TotalSales\n");
             @SuppressWarnings("deprecation")
-			NumberFormat numberFormat = NumberFormat.getInstance(new Locale("es", "ES"));
+            NumberFormat numberFormat = NumberFormat.getInstance(new Locale("es", "ES"));
 
-            for (Map.Entry<Long, Double> entry : sortedSalesmen) {
-                Salesman salesman = findSalesmanById(salesmen, entry.getKey());
+            for (Map.Entry<Long, Double> entry : aggregate.getSortedSalesBySalesman()) {
+                Salesman salesman = aggregate.getSalesman(entry.getKey());
                 if (salesman != null) {
                     String totalSalesFormatted = numberFormat.format(entry.getValue());
                     writer.write(salesman.getId() + ";" + salesman.getName() + ";" + salesman.getLastName() + ";"
@@ -318,40 +357,72 @@ public class Main {
                     System.err.println("Salesman with ID " + entry.getKey() + " not found. Skipping report entry.");
                 }
             }
-            System.out.println("Sales report deserialized generated successfully.");
-        } catch (IOException e) {
-            System.err.println("Error writing sales report: " + e.getMessage());
         }
     }
 
-
     /**
-     * Generates a deserialized product sales report in CSV format.
+     * Writes the product sales report in CSV format.
+     * The file is compressed according to its extension.
      *
      * @param products a list of Product objects
-     * @param sales a list of Sale objects
+     * @param salesByProduct the total quantity sold of each product
+     * @param filename the path of the report file
      * @throws IOException if an error occurs during file writing
      */
-    public static void generateProductSalesReportDeserialized(List<Product> products, List<Sale> sales) throws IOException {
-        Map<Integer, Integer> salesByProduct = new HashMap<>();
-
-        // Calcular total de ventas
-        for (Sale sale : sales) {
-            salesByProduct.put(sale.getProductId(),
-                    salesByProduct.getOrDefault(sale.getProductId(), 0) + sale.getQuantity());
-        }
-
-        // Generar archivo CSV
-        try (FileWriter writer = new FileWriter("resources/product_sales_report_deserialized.csv")) {
+    public static void writeProductSalesReport(List<Product> products, Map<Integer, Integer> salesByProduct,
+            String filename) throws IOException {
+        try (Writer writer = CompressionCodec.openWriter(filename)) {
             writer.write("ProductId;Name;TotalSold\n");
             for (Product product : products) {
                 int totalSold = salesByProduct.getOrDefault(product.getId(), 0);
                 writer.write(product.getId() + ";Product " + product.getId() + ";" + totalSold + "\n");
             }
-            System.out.println("Product sales report (deserialized) generated successfully.");
         }
     }
-    
+
+    /**
+     * Writes the quantity sold of each product by each salesman in CSV format,
+     * with one row per salesman and one column per product.
+     * The file is compressed according to its extension.
+     *
+     * @param aggregate the aggregated sales data
+     * @param filename the path of the report file
+     * @throws IOException if an error occurs during file writing
+     */
+    public static void writeSalesmanProductReport(SalesAggregate aggregate, String filename) throws IOException {
+        Map<Long, Map<Integer, Integer>> salesBySalesmanAndProduct = aggregate.getSalesBySalesmanAndProduct();
+
+        try (Writer writer = CompressionCodec.openWriter(filename)) {
+            writer.write("SalesmanId;Name;LastName");
+            for (Product product : aggregate.getProducts()) {
+                writer.write(";Product " + product.getId());
+            }
+            writer.write("\n");
+
+            for (Salesman salesman : aggregate.getSalesmen()) {
+                Map<Integer, Integer> salesByProduct = salesBySalesmanAndProduct.getOrDefault(salesman.getId(), Map.of());
+                writer.write(salesman.getId() + ";" + salesman.getName() + ";" + salesman.getLastName());
+                for (Product product : aggregate.getProducts()) {
+                    writer.write(";" + salesByProduct.getOrDefault(product.getId(), 0));
+                }
+                writer.write("\n");
+            }
+        }
+    }
+
+    /**
+     * Calculates the total quantity sold of each product.
+     *
+     * @param sales a list of Sale objects
+     * @return a map from product ID to total quantity sold
+     */
+    private static Map<Integer, Integer> countSalesByProduct(List<Sale> sales) {
+        Map<Integer, Integer> salesByProduct = new HashMap<>();
+        for (Sale sale : sales) {
+            salesByProduct.merge(sale.getProductId(), sale.getQuantity(), Integer::sum);
+        }
+        return salesByProduct;
+    }
 
     /**
      * Finds a Salesman by ID.
@@ -385,158 +456,3 @@ public class Main {
         return null; // Not found
     }
 }
-
-
-
-/**
- * Represents a salesman with an ID, name, and last name.
- */
-class Salesman implements Serializable {
-    private static final long serialVersionUID = 1L;
-
-    private long id;
-    private String name;
-    private String lastName;
-
-    /**
-     * Constructs a Salesman instance with the specified ID, name, and last name.
-     * 
-     * @param id        the ID of the salesman
-     * @param name      the name of the salesman
-     * @param lastName  the last name of the salesman
-     */
-    public Salesman(long id, String name, String lastName) {
-        this.id = id;
-        this.name = name;
-        this.lastName = lastName;
-    }
-
-    /**
-     * Gets the ID of the salesman.
-     * 
-     * @return the ID of the salesman
-     */
-    public long getId() {
-        return id;
-    }
-
-    /**
-     * Gets the name of the salesman.
-     * 
-     * @return the name of the salesman
-     */
-    public String getName() {
-        return name;
-    }
-
-    /**
-     * Gets the last name of the salesman.
-     * 
-     * @return the last name of the salesman
-     */
-    public String getLastName() {
-        return lastName;
-    }
-}
-
-/**
- * Represents a product with an ID, name, and price.
- */
-class Product implements Serializable {
-    private static final long serialVersionUID = 1L;
-
-    private int id;
-    private String name;
-    private double price;
-
-    /**
-     * Constructs a Product instance with the specified ID, name, and price.
-     * 
-     * @param id    the ID of the product
-     * @param name  the name of the product
-     * @param price the price of the product
-     */
-    public Product(int id, String name, double price) {
-        this.id = id;
-        this.name = name;
-        this.price = price;
-    }
-
-    /**
-     * Gets the ID of the product.
-     * 
-     * @return the ID of the product
-     */
-    public int getId() {
-        return id;
-    }
-
-    /**
-     * Gets the name of the product.
-     * 
-     * @return the name of the product
-     */
-    public String getName() {
-        return name;
-    }
-
-    /**
-     * Gets the price of the product.
-     * 
-     * @return the price of the product
-     */
-    public double getPrice() {
-        return price;
-    }
-}
-
-/**
- * Represents a sale made by a salesman for a specific product with a quantity.
- */
-class Sale implements Serializable {
-    private static final long serialVersionUID = 1L; // Adding serialVersionUID
-
-    private int productId;
-    private long salesmanId;
-    private int quantity;
-
-    /**
-     * Constructs a Sale instance with the specified product ID, salesman ID, and quantity.
-     * 
-     * @param productId  the ID of the product sold
-     * @param salesmanId the ID of the salesman making the sale
-     * @param quantity   the quantity of the product sold
-     */
-    public Sale(int productId, long salesmanId, int quantity) {
-        this.productId = productId;
-        this.salesmanId = salesmanId;
-        this.quantity = quantity;
-    }
-
-    /**
-     * Gets the product ID of the sale.
-     * 
-     * @return the product ID of the sale
-     */
-    public int getProductId() {
-        return productId;
-    }
-
-    /**
-     * Gets the salesman ID of the sale.
-     * 
-     * @return the salesman ID of the sale
-     */
-    public long getSalesmanId() {
-        return salesmanId;
-    }
-
-    /**
-     * Gets the quantity of the product sold in the sale.
-     * 
-     * @return the quantity of the product sold
-     */
-    public int getQuantity() {
-        return quantity;
-    }
-}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package Main;
+
+import java.io.Serializable;
+
+/**
+ * Represents a product with an ID, name, and price.
+ */
+class Product implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private int id;
+    private String name;
+    private double price;
+
+    /**
+     * Constructs a Product instance with the specified ID, name, and price.
+     * 
+     * @param id    the ID of the product
+     * @param name  the name of the product
+     * @param price the price of the product
+     */
+    public Product(int id, String name, double price) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+    }
+
+    /**
+     * Gets the ID of the product.
+     * 
+     * @return the ID of the product
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the product.
+     * 
+     * @return the name of the product
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the price of the product.
+     * 
+     * @return the price of the product
+     */
+    public double getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,85 @@
+package Main;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Renders a set of registered reports from a shared SalesAggregate.
+ * Each report runs concurrently in its own task, so a failure in one report does not
+ * stop the others, and the time spent on each report is printed when it finishes.
+ */
+public class ReportPipeline {
+
+    /**
+     * A report that is rendered from the aggregated sales data.
+     */
+    @FunctionalInterface
+    public interface ReportSink {
+        /**
+         * Renders the report.
+         *
+         * @param aggregate the aggregated sales data
+         * @throws IOException if an error occurs during file writing
+         */
+        void render(SalesAggregate aggregate) throws IOException;
+    }
+
+    private final Map<String, ReportSink> sinks = new LinkedHashMap<>();
+
+    /**
+     * Registers a report to be rendered by this pipeline.
+     *
+     * @param name the name used to identify the report in log messages
+     * @param sink the report to render
+     * @return this pipeline, to allow chained calls
+     */
+    public ReportPipeline register(String name, ReportSink sink) {
+        sinks.put(name, sink);
+        return this;
+    }
+
+    /**
+     * Renders every registered report concurrently and waits for all of them to finish.
+     *
+     * @param aggregate the aggregated sales data shared by every report
+     * @return true if all reports are rendered successfully, false otherwise
+     */
+    public boolean run(SalesAggregate aggregate) {
+        if (sinks.isEmpty()) {
+            return true;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sinks.size());
+        try {
+            Map<String, Future<Long>> results = new LinkedHashMap<>();
+            for (Map.Entry<String, ReportSink> entry : sinks.entrySet()) {
+                ReportSink sink = entry.getValue();
+                results.put(entry.getKey(), executor.submit(() -> {
+                    long start = System.nanoTime();
+                    sink.render(aggregate);
+                    return System.nanoTime() - start;
+                }));
+            }
+
+            boolean success = true;
+            for (Map.Entry<String, Future<Long>> entry : results.entrySet()) {
+                try {
+                    long elapsed = entry.getValue().get();
+                    System.out.println("Report " + entry.getKey() + " rendered in "
+                            + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms.");
+                } catch (ExecutionException e) {
+                    System.err.println("Error generating report " + entry.getKey() + ": " + e.getCause());
+                    success = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    System.err.println("Interrupted while generating report " + entry.getKey());
+                    return false;
+                }
+            }
+            return success;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
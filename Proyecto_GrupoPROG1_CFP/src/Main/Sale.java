@@ -0,0 +1,54 @@
+package Main;
+
+import java.io.Serializable;
+
+/**
+ * Represents a sale made by a salesman for a specific product with a quantity.
+ */
+class Sale implements Serializable {
+    private static final long serialVersionUID = 1L; // Adding serialVersionUID
+
+    private int productId;
+    private long salesmanId;
+    private int quantity;
+
+    /**
+     * Constructs a Sale instance with the specified product ID, salesman ID, and quantity.
+     * 
+     * @param productId  the ID of the product sold
+     * @param salesmanId the ID of the salesman making the sale
+     * @param quantity   the quantity of the product sold
+     */
+    public Sale(int productId, long salesmanId, int quantity) {
+        this.productId = productId;
+        this.salesmanId = salesmanId;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gets the product ID of the sale.
+     * 
+     * @return the product ID of the sale
+     */
+    public int getProductId() {
+        return productId;
+    }
+
+    /**
+     * Gets the salesman ID of the sale.
+     * 
+     * @return the salesman ID of the sale
+     */
+    public long getSalesmanId() {
+        return salesmanId;
+    }
+
+    /**
+     * Gets the quantity of the product sold in the sale.
+     * 
+     * @return the quantity of the product sold
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+}
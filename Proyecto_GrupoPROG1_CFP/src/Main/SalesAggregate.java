@@ -0,0 +1,151 @@
+package Main;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the aggregated sales data.
+ * The snapshot is built with a single pass over the sales and is shared by every
+ * report sink, so adding a new report does not require reading the sales again.
+ * Quantities include every sale, while the sales amounts skip sales of products
+ * that are not in the product list, because their price is unknown.
+ */
+public final class SalesAggregate {
+    private final List<Salesman> salesmen;
+    private final Map<Long, Salesman> salesmenById;
+    private final List<Product> products;
+    private final Map<Long, Double> salesBySalesman;
+    private final Map<Integer, Integer> salesByProduct;
+    private final Map<Integer, Double> revenueByProduct;
+    private final Map<Long, Map<Integer, Integer>> salesBySalesmanAndProduct;
+
+    private SalesAggregate(List<Salesman> salesmen, Map<Long, Salesman> salesmenById, List<Product> products,
+            Map<Long, Double> salesBySalesman, Map<Integer, Integer> salesByProduct, Map<Integer, Double> revenueByProduct,
+            Map<Long, Map<Integer, Integer>> salesBySalesmanAndProduct) {
+        this.salesmen = salesmen;
+        this.salesmenById = salesmenById;
+        this.products = products;
+        this.salesBySalesman = salesBySalesman;
+        this.salesByProduct = salesByProduct;
+        this.revenueByProduct = revenueByProduct;
+        this.salesBySalesmanAndProduct = salesBySalesmanAndProduct;
+    }
+
+    /**
+     * Builds the aggregate snapshot from the provided salesmen, products, and sales data.
+     *
+     * @param salesmen a list of Salesman objects
+     * @param products a list of Product objects
+     * @param sales a list of Sale objects
+     * @return the aggregate snapshot
+     */
+    public static SalesAggregate of(List<Salesman> salesmen, List<Product> products, List<Sale> sales) {
+        Map<Long, Salesman> salesmenById = new HashMap<>();
+        for (Salesman salesman : salesmen) {
+            salesmenById.putIfAbsent(salesman.getId(), salesman); // Keep the first match, like findSalesmanById
+        }
+        Map<Integer, Product> productsById = new HashMap<>();
+        for (Product product : products) {
+            productsById.putIfAbsent(product.getId(), product); // Keep the first match, like findProductById
+        }
+
+        Map<Long, Double> salesBySalesman = new HashMap<>();
+        Map<Integer, Integer> salesByProduct = new HashMap<>();
+        Map<Integer, Double> revenueByProduct = new HashMap<>();
+        Map<Long, Map<Integer, Integer>> salesBySalesmanAndProduct = new HashMap<>();
+
+        for (Sale sale : sales) {
+            salesByProduct.merge(sale.getProductId(), sale.getQuantity(), Integer::sum);
+            salesBySalesmanAndProduct.computeIfAbsent(sale.getSalesmanId(), id -> new HashMap<>())
+                    .merge(sale.getProductId(), sale.getQuantity(), Integer::sum);
+
+            Product product = productsById.get(sale.getProductId());
+            if (product == null) {
+                System.err.println("Product with ID " + sale.getProductId() + " not found. Skipping sale.");
+                continue;
+            }
+            double totalSaleAmount = product.getPrice() * sale.getQuantity();
+            salesBySalesman.merge(sale.getSalesmanId(), totalSaleAmount, Double::sum);
+            revenueByProduct.merge(sale.getProductId(), totalSaleAmount, Double::sum);
+        }
+
+        Map<Long, Map<Integer, Integer>> matrix = new HashMap<>();
+        for (Map.Entry<Long, Map<Integer, Integer>> entry : salesBySalesmanAndProduct.entrySet()) {
+            matrix.put(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+        }
+
+        return new SalesAggregate(List.copyOf(salesmen),
+                Collections.unmodifiableMap(salesmenById),
+                List.copyOf(products),
+                Collections.unmodifiableMap(salesBySalesman),
+                Collections.unmodifiableMap(salesByProduct),
+                Collections.unmodifiableMap(revenueByProduct),
+                Collections.unmodifiableMap(matrix));
+    }
+
+    /**
+     * Finds a Salesman by ID.
+     *
+     * @param id the ID of the Salesman to find
+     * @return the Salesman object if found, null otherwise
+     */
+    public Salesman getSalesman(long id) {
+        return salesmenById.get(id);
+    }
+
+    /**
+     * Gets the salesmen in their original order.
+     *
+     * @return an unmodifiable list of Salesman objects
+     */
+    public List<Salesman> getSalesmen() {
+        return salesmen;
+    }
+
+    /**
+     * Gets the products in their original order.
+     *
+     * @return an unmodifiable list of Product objects
+     */
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    /**
+     * Gets the total sales amount of each salesman, sorted from highest to lowest.
+     *
+     * @return a new list of entries sorted by total sales amount in descending order
+     */
+    public List<Map.Entry<Long, Double>> getSortedSalesBySalesman() {
+        List<Map.Entry<Long, Double>> sortedSalesmen = new ArrayList<>(salesBySalesman.entrySet());
+        sortedSalesmen.sort((entry1, entry2) -> Double.compare(entry2.getValue(), entry1.getValue()));
+        return sortedSalesmen;
+    }
+
+    /**
+     * Gets the total quantity sold of each product.
+     *
+     * @return an unmodifiable map from product ID to total quantity sold
+     */
+    public Map<Integer, Integer> getSalesByProduct() {
+        return salesByProduct;
+    }
+
+    /**
+     * Gets the total sales amount of each product.
+     * Products that are not in the product list have no entry.
+     *
+     * @return an unmodifiable map from product ID to total sales amount
+     */
+    public Map<Integer, Double> getRevenueByProduct() {
+        return revenueByProduct;
+    }
+
+    /**
+     * Gets the quantity sold of each product by each salesman.
+     *
+     * @return an unmodifiable map from salesman ID to a map from product ID to quantity sold
+     */
+    public Map<Long, Map<Integer, Integer>> getSalesBySalesmanAndProduct() {
+        return salesBySalesmanAndProduct;
+    }
+}
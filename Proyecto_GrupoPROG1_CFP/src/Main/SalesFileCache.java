@@ -0,0 +1,272 @@
+package Main;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded LRU cache of the aggregates of single sales files.
+ * Entries are keyed by the file path together with its last modification time and
+ * length, so a file that changes on disk is read again instead of returning stale data.
+ * The cache can be shared between threads.
+ */
+public class SalesFileCache {
+
+    /**
+     * Totals of a single sales file: quantity sold and revenue of each product.
+     * Product IDs are kept sorted so the totals of a product can be found with a binary search.
+     * As in SalesAggregate, products that are not in the product list count towards the
+     * quantities but have no revenue. Quantities are summed as int, like in SalesAggregate,
+     * so the quantity of one product in one file is limited to Integer.MAX_VALUE.
+     */
+    public static final class SalesFileAggregate {
+        private final int[] productIds;
+        private final int[] units;
+        private final double[] revenue;
+
+        private SalesFileAggregate(int[] productIds, int[] units, double[] revenue) {
+            this.productIds = productIds;
+            this.units = units;
+            this.revenue = revenue;
+        }
+
+        /**
+         * Gets the number of distinct products sold in the file.
+         *
+         * @return the number of products
+         */
+        public int getProductCount() {
+            return productIds.length;
+        }
+
+        /**
+         * Gets the ID of the product at the specified position.
+         *
+         * @param index the position of the product, between 0 and getProductCount() - 1
+         * @return the ID of the product
+         */
+        public int getProductId(int index) {
+            return productIds[index];
+        }
+
+        /**
+         * Gets the quantity sold of a product.
+         *
+         * @param productId the ID of the product
+         * @return the quantity sold, or 0 if the product has no sales in the file
+         */
+        public int getUnits(int productId) {
+            int index = Arrays.binarySearch(productIds, productId);
+            return index >= 0 ? units[index] : 0;
+        }
+
+        /**
+         * Gets the revenue of a product.
+         *
+         * @param productId the ID of the product
+         * @return the revenue, or 0 if the product has no sales in the file
+         */
+        public double getRevenue(int productId) {
+            int index = Arrays.binarySearch(productIds, productId);
+            return index >= 0 ? revenue[index] : 0.0;
+        }
+
+        /**
+         * Gets the total quantity sold in the file.
+         *
+         * @return the total quantity sold
+         */
+        public long getTotalUnits() {
+            long total = 0;
+            for (int value : units) {
+                total += value;
+            }
+            return total;
+        }
+
+        /**
+         * Gets the total revenue of the file.
+         *
+         * @return the total revenue
+         */
+        public double getTotalRevenue() {
+            double total = 0.0;
+            for (double value : revenue) {
+                total += value;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Identifies a version of a sales file on disk.
+     */
+    private static final class Key {
+        private final Path path;
+        private final FileTime lastModified;
+        private final long length;
+
+        Key(Path path, FileTime lastModified, long length) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return length == key.length && lastModified.equals(key.lastModified) && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified, length);
+        }
+    }
+
+    private final List<Product> products;
+    private final Map<Key, SalesFileAggregate> entries;
+    private final Map<Path, Key> currentKeys = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructs a SalesFileCache that holds up to the specified number of files.
+     *
+     * @param products a list of Product objects used to compute the revenue
+     * @param maxEntries the maximum number of files kept in the cache
+     */
+    public SalesFileCache(List<Product> products, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.products = List.copyOf(products);
+        this.entries = new LinkedHashMap<Key, SalesFileAggregate>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SalesFileAggregate> eldest) {
+                if (size() > maxEntries) {
+                    currentKeys.remove(eldest.getKey().path, eldest.getKey());
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the aggregate of a sales file, reading the file only if it is not cached
+     * or if it has changed since it was cached.
+     * Files that cannot be read are not cached.
+     *
+     * @param filename the path of the sales data file
+     * @return the aggregate of the file
+     * @throws IOException if the file cannot be read or decompressed
+     */
+    public SalesFileAggregate get(String filename) throws IOException {
+        Path path = Paths.get(filename).toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Key key = new Key(path, attributes.lastModifiedTime(), attributes.size());
+
+        synchronized (entries) {
+            SalesFileAggregate aggregate = entries.get(key);
+            if (aggregate != null) {
+                hits.incrementAndGet();
+                return aggregate;
+            }
+        }
+
+        misses.incrementAndGet();
+        SalesFileAggregate aggregate = aggregate(Main.parseSalesFile(path.toString()));
+
+        synchronized (entries) {
+            Key previous = currentKeys.put(path, key);
+            if (previous != null && !previous.equals(key)) {
+                entries.remove(previous); // Drop the outdated version of the file
+            }
+            entries.put(key, aggregate);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Removes every file from the cache. The hit and miss counters are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            currentKeys.clear();
+        }
+    }
+
+    /**
+     * Gets the number of files currently held in the cache.
+     *
+     * @return the number of cached files
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of requests that required reading the file.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of files removed because the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Aggregates the sales of a file by product.
+     *
+     * @param sales a list of Sale objects read from the file
+     * @return the aggregate of the sales
+     */
+    private SalesFileAggregate aggregate(List<Sale> sales) {
+        SalesAggregate aggregate = SalesAggregate.of(List.of(), products, sales);
+        Map<Integer, Integer> unitsByProduct = new TreeMap<>(aggregate.getSalesByProduct());
+        Map<Integer, Double> revenueByProduct = aggregate.getRevenueByProduct();
+
+        int[] productIds = new int[unitsByProduct.size()];
+        int[] units = new int[productIds.length];
+        double[] revenue = new double[productIds.length];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : unitsByProduct.entrySet()) {
+            productIds[i] = entry.getKey();
+            units[i] = entry.getValue();
+            revenue[i] = revenueByProduct.getOrDefault(entry.getKey(), 0.0);
+            i++;
+        }
+        return new SalesFileAggregate(productIds, units, revenue);
+    }
+}
@@ -0,0 +1,54 @@
+package Main;
+
+import java.io.Serializable;
+
+/**
+ * Represents a salesman with an ID, name, and last name.
+ */
+class Salesman implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long id;
+    private String name;
+    private String lastName;
+
+    /**
+     * Constructs a Salesman instance with the specified ID, name, and last name.
+     * 
+     * @param id        the ID of the salesman
+     * @param name      the name of the salesman
+     * @param lastName  the last name of the salesman
+     */
+    public Salesman(long id, String name, String lastName) {
+        this.id = id;
+        this.name = name;
+        this.lastName = lastName;
+    }
+
+    /**
+     * Gets the ID of the salesman.
+     * 
+     * @return the ID of the salesman
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the salesman.
+     * 
+     * @return the name of the salesman
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the last name of the salesman.
+     * 
+     * @return the last name of the salesman
+     */
+    public String getLastName() {
+        return lastName;
+    }
+}